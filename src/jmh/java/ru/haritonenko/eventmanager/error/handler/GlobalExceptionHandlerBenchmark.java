@@ -0,0 +1,65 @@
+package ru.haritonenko.eventmanager.error.handler;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import ru.haritonenko.eventmanager.location.api.dto.EventLocationCreateRequestDto;
+import ru.haritonenko.eventmanager.location.domain.exception.LocationNotFoundException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private static final String OBJECT_NAME = "locationFromCreateRequest";
+
+    private GlobalExceptionHandler exceptionHandler;
+    private ObjectMapper objectMapper;
+    private LocationNotFoundException locationNotFoundException;
+    private MethodArgumentNotValidException validationException;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        exceptionHandler = new GlobalExceptionHandler();
+        objectMapper = JsonMapper.builder().build();
+        locationNotFoundException = new LocationNotFoundException("No found location by id = 1");
+
+        var locationToCreate = new EventLocationCreateRequestDto(null, "", "addr", 1, "short", null, null);
+        var bindingResult = new BeanPropertyBindingResult(locationToCreate, OBJECT_NAME);
+        bindingResult.addError(new FieldError(OBJECT_NAME, "name", "Location name can not be blank"));
+        bindingResult.addError(new FieldError(OBJECT_NAME, "address", "Min address size is 5, max is 30"));
+        bindingResult.addError(new FieldError(OBJECT_NAME, "capacity", "Min location capacity is 5"));
+        bindingResult.addError(new FieldError(OBJECT_NAME, "description", "Min description size is 10, max is 100"));
+        var methodParameter = new MethodParameter(
+                GlobalExceptionHandlerBenchmark.class.getDeclaredMethod(
+                        "validationTarget", EventLocationCreateRequestDto.class),
+                0
+        );
+        validationException = new MethodArgumentNotValidException(methodParameter, bindingResult);
+    }
+
+    @Benchmark
+    public String renderNotFoundError() {
+        return objectMapper.writeValueAsString(
+                exceptionHandler.handleNoFoundLocationException(locationNotFoundException).getBody());
+    }
+
+    @Benchmark
+    public String renderValidationError() {
+        return objectMapper.writeValueAsString(
+                exceptionHandler.handleValidationException(validationException).getBody());
+    }
+
+    @SuppressWarnings("unused")
+    private void validationTarget(EventLocationCreateRequestDto locationFromCreateRequest) {
+    }
+}
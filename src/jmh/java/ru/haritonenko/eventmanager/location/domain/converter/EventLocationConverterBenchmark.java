@@ -0,0 +1,52 @@
+package ru.haritonenko.eventmanager.location.domain.converter;
+
+import org.openjdk.jmh.annotations.*;
+import ru.haritonenko.eventmanager.location.api.dto.EventLocationDto;
+import ru.haritonenko.eventmanager.location.domain.db.entity.EventLocationEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventLocationConverterBenchmark {
+
+    @Param({"10", "1000"})
+    private int pageSize;
+
+    private EventLocationEntityConverter entityConverter;
+    private EventLocationDtoConverter dtoConverter;
+    private List<EventLocationEntity> locationEntities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entityConverter = new EventLocationEntityConverter();
+        dtoConverter = new EventLocationDtoConverter();
+        locationEntities = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            locationEntities.add(new EventLocationEntity(
+                    i,
+                    "Location " + i,
+                    "Address " + i,
+                    100,
+                    "Location description " + i,
+                    55.75 + i / 100_000.0,
+                    37.61 + i / 100_000.0,
+                    new ArrayList<>()
+            ));
+        }
+    }
+
+    @Benchmark
+    public List<EventLocationDto> entityToDtoPage() {
+        return locationEntities.stream()
+                .map(entityConverter::toDomain)
+                .map(dtoConverter::toDto)
+                .toList();
+    }
+}
@@ -0,0 +1,106 @@
+package ru.haritonenko.eventmanager.location.domain.db.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import ru.haritonenko.eventmanager.EventManagerApplication;
+import ru.haritonenko.eventmanager.location.domain.db.entity.EventLocationEntity;
+import ru.haritonenko.eventmanager.location.domain.db.specification.EventLocationSpecifications;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Runs against the datasource from application.yaml, so a local PostgreSQL
+ * (localhost:5435/eventdb) has to be up. Seeded rows are removed on tear down.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventLocationRepositoryBenchmark {
+
+    private static final int SEEDED_LOCATIONS_COUNT = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+    private EventLocationRepository locationRepository;
+    private List<EventLocationEntity> seededLocations;
+    private int firstSeededId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringApplication.run(
+                EventManagerApplication.class,
+                "--server.port=0",
+                "--management.server.port=-1",
+                "--spring.jpa.show-sql=false"
+        );
+        locationRepository = context.getBean(EventLocationRepository.class);
+        var locationsToSeed = new ArrayList<EventLocationEntity>(SEEDED_LOCATIONS_COUNT);
+        for (int i = 0; i < SEEDED_LOCATIONS_COUNT; i++) {
+            locationsToSeed.add(new EventLocationEntity(
+                    null,
+                    "jmh-location-" + i,
+                    "jmh-address-" + i,
+                    100,
+                    "Benchmark location " + i,
+                    55.75 + i / 100_000.0,
+                    37.61 + i / 100_000.0,
+                    new ArrayList<>()
+            ));
+        }
+        seededLocations = locationRepository.saveAll(locationsToSeed);
+        firstSeededId = seededLocations.getFirst().getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        locationRepository.deleteAllInBatch(seededLocations);
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<EventLocationEntity> findById() {
+        return locationRepository.findById(randomSeededId());
+    }
+
+    @Benchmark
+    public List<EventLocationEntity> searchByName() {
+        int index = ThreadLocalRandom.current().nextInt(SEEDED_LOCATIONS_COUNT);
+        return locationRepository.findAll(
+                EventLocationSpecifications.hasName("jmh-location-" + index),
+                PageRequest.of(0, PAGE_SIZE, Sort.by("id"))
+        ).getContent();
+    }
+
+    @Benchmark
+    public List<EventLocationEntity> deepOffsetPage() {
+        return locationRepository.findAll(
+                EventLocationSpecifications.idGreaterThan(0),
+                PageRequest.of(SEEDED_LOCATIONS_COUNT / PAGE_SIZE - 1, PAGE_SIZE, Sort.by("id"))
+        ).getContent();
+    }
+
+    @Benchmark
+    public List<EventLocationEntity> deepKeysetPage() {
+        return locationRepository.findBy(
+                EventLocationSpecifications.idGreaterThan(firstSeededId + SEEDED_LOCATIONS_COUNT - PAGE_SIZE - 1),
+                query -> query
+                        .sortBy(Sort.by("id"))
+                        .limit(PAGE_SIZE)
+                        .all()
+        );
+    }
+
+    private int randomSeededId() {
+        return firstSeededId + ThreadLocalRandom.current().nextInt(SEEDED_LOCATIONS_COUNT);
+    }
+}
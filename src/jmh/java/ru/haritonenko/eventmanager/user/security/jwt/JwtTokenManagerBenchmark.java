@@ -0,0 +1,61 @@
+package ru.haritonenko.eventmanager.user.security.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.haritonenko.eventmanager.user.domain.User;
+import ru.haritonenko.eventmanager.user.domain.role.UserRole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenManagerBenchmark {
+
+    private static final String SECRET_KEY = "BC394D294B33EF525867C6B171EFBC77074D28CCF485F48280B62AE7DF911F38";
+    private static final int COLD_TOKENS_COUNT = 100_000;
+    private static final int CACHE_SIZE = 16;
+
+    private JwtTokenManager jwtTokenManager;
+    private User user;
+    private String warmToken;
+    private String[] coldTokens;
+    private int coldTokenIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtTokenManager = new JwtTokenManager();
+        ReflectionTestUtils.setField(jwtTokenManager, "keyString", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtTokenManager, "accessTokenLifetime", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtTokenManager, "refreshTokenLifetime", TimeUnit.DAYS.toMillis(7));
+        ReflectionTestUtils.setField(jwtTokenManager, "verifiedTokenCacheSize", (long) CACHE_SIZE);
+        jwtTokenManager.init();
+
+        user = new User(1, "user", 21, UserRole.USER);
+        warmToken = jwtTokenManager.generateAccessToken(user);
+        coldTokens = new String[COLD_TOKENS_COUNT];
+        for (int i = 0; i < COLD_TOKENS_COUNT; i++) {
+            coldTokens[i] = jwtTokenManager.generateAccessToken(
+                    new User(i, "user" + i, 21, UserRole.USER));
+        }
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenManager.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public JwtTokenClaims parseColdToken() {
+        coldTokenIndex = (coldTokenIndex + 1) % COLD_TOKENS_COUNT;
+        return jwtTokenManager.parseToken(coldTokens[coldTokenIndex]);
+    }
+
+    @Benchmark
+    public JwtTokenClaims parseWarmToken() {
+        return jwtTokenManager.parseToken(warmToken);
+    }
+}
@@ -0,0 +1,46 @@
+package ru.haritonenko.eventmanager.user.security.password;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String RAW_PASSWORD = "user-password";
+
+    @Param({"bcrypt-10", "bcrypt-12", "pbkdf2"})
+    private String encoder;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = switch (encoder) {
+            case "bcrypt-10" -> new BCryptPasswordEncoder(10);
+            case "bcrypt-12" -> new BCryptPasswordEncoder(12);
+            case "pbkdf2" -> {
+                var pbkdf2Encoder = Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+                pbkdf2Encoder.setEncodeHashAsBase64(true);
+                yield pbkdf2Encoder;
+            }
+            default -> throw new IllegalArgumentException("Unknown encoder: " + encoder);
+        };
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean loginPerCore() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
@@ -2,9 +2,12 @@ package ru.haritonenko.eventmanager.error.handler;
 
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -20,6 +23,8 @@ import ru.haritonenko.eventmanager.location.domain.exception.LocationNotFoundExc
 import ru.haritonenko.eventmanager.user.domain.exception.UserAlreadyRegisteredException;
 import ru.haritonenko.eventmanager.user.domain.exception.UserBookedEventException;
 import ru.haritonenko.eventmanager.user.domain.exception.UserNotFoundException;
+import ru.haritonenko.eventmanager.user.domain.exception.PasswordHashingOverloadedException;
+import ru.haritonenko.eventmanager.user.domain.exception.InvalidRefreshTokenException;
 import ru.haritonenko.eventmanager.error.errorDto.ErrorMessageResponse;
 
 import java.time.LocalDateTime;
@@ -257,6 +262,44 @@ public class GlobalExceptionHandler {
                 .body(errorDto);
     }
 
+    @ExceptionHandler(PasswordHashingOverloadedException.class)
+    public ResponseEntity<ErrorMessageResponse> handlePasswordHashingOverloadedException(
+            PasswordHashingOverloadedException ex
+    ) {
+        log.warn("Got PasswordHashingOverloadedException: {}", ex.getMessage());
+        var errorDto = getErrorMessageResponse("Service is overloaded",
+                ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorDto);
+    }
+
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ErrorMessageResponse> handleDatabaseConnectionUnavailableException(
+            RuntimeException ex
+    ) {
+        log.warn("Got database connection failure: {}", ex.getMessage());
+        var errorDto = getErrorMessageResponse("Service is overloaded",
+                "No free database connection, try again later");
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorDto);
+    }
+
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ErrorMessageResponse> handleInvalidRefreshTokenException(
+            InvalidRefreshTokenException ex
+    ) {
+        log.warn("Got InvalidRefreshTokenException: {}", ex.getMessage());
+        var errorDto = getErrorMessageResponse("Token refresh error",
+                ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.UNAUTHORIZED)
+                .body(errorDto);
+    }
+
     private ErrorMessageResponse getErrorMessageResponse(
             String message,
             String detailedMessage
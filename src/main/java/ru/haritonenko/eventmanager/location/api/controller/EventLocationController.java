@@ -4,15 +4,23 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.haritonenko.eventmanager.location.domain.converter.EventLocationDtoConverter;
 import ru.haritonenko.eventmanager.location.api.dto.EventLocationCreateRequestDto;
 import ru.haritonenko.eventmanager.location.api.dto.EventLocationDto;
 import ru.haritonenko.eventmanager.location.api.dto.EventLocationUpdateRequestDto;
+import ru.haritonenko.eventmanager.location.api.dto.filter.EventLocationNearbySearchFilter;
 import ru.haritonenko.eventmanager.location.api.dto.filter.EventLocationSearchFilter;
+import ru.haritonenko.eventmanager.location.api.dto.filter.EventLocationTextSearchFilter;
+import ru.haritonenko.eventmanager.location.api.dto.importing.EventLocationImportReport;
+import ru.haritonenko.eventmanager.location.domain.service.EventLocationImportService;
 import ru.haritonenko.eventmanager.location.domain.service.EventLocationService;
+import ru.haritonenko.eventmanager.pagination.cursor.PageCursorCodec;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @Slf4j
@@ -21,15 +29,48 @@ import java.util.List;
 @RequiredArgsConstructor
 public class EventLocationController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
     private final EventLocationService locationService;
+    private final EventLocationImportService locationImportService;
     private final EventLocationDtoConverter converter;
+    private final PageCursorCodec cursorCodec;
 
     @GetMapping
-    public List<EventLocationDto> searchAllLocations(
+    public ResponseEntity<List<EventLocationDto>> searchAllLocations(
             @Valid EventLocationSearchFilter locationFilter
     ) {
-        log.info("Get request for getting all locations");
-        return locationService.getAllLocations(locationFilter)
+        log.debug("Get request for getting all locations");
+        var foundLocations = locationService.getAllLocations(locationFilter)
+                .stream()
+                .map(converter::toDto)
+                .toList();
+        var response = ResponseEntity.status(HttpStatus.OK);
+        if (foundLocations.size() == locationService.getPageSize(locationFilter)) {
+            response.header(NEXT_CURSOR_HEADER,
+                    cursorCodec.encode(foundLocations.getLast().id()));
+        }
+        return response.body(foundLocations);
+    }
+
+    @GetMapping("/text-search")
+    public List<EventLocationDto> searchLocationsByText(
+            @Valid EventLocationTextSearchFilter textSearchFilter
+    ) {
+        log.debug("Get request for text search of locations: {}", textSearchFilter.query());
+        return locationService.searchLocationsByText(textSearchFilter)
+                .stream()
+                .map(converter::toDto)
+                .toList();
+    }
+
+    @GetMapping("/nearby")
+    public List<EventLocationDto> searchNearbyLocations(
+            @Valid EventLocationNearbySearchFilter nearbySearchFilter
+    ) {
+        log.debug("Get request for searching nearby locations: {}", nearbySearchFilter);
+        return locationService.searchNearbyLocations(nearbySearchFilter)
                 .stream()
                 .map(converter::toDto)
                 .toList();
@@ -39,7 +80,7 @@ public class EventLocationController {
     public EventLocationDto getById(
             @PathVariable Integer id
     ) {
-        log.info("Get request for getting location by id: {}", id);
+        log.debug("Get request for getting location by id: {}", id);
         var foundLocation = locationService.getLocationById(id);
         return converter.toDto(foundLocation);
     }
@@ -48,7 +89,7 @@ public class EventLocationController {
     public ResponseEntity<EventLocationDto> createLocation(
             @RequestBody @Valid EventLocationCreateRequestDto locationFromCreateRequest
     ) {
-        log.info("Post request for creation a new location: {}", locationFromCreateRequest);
+        log.debug("Post request for creation a new location: {}", locationFromCreateRequest);
         var createdLocation = locationService
                 .createLocation(converter.fromCreateDtoToDomain(locationFromCreateRequest));
         return ResponseEntity
@@ -56,12 +97,28 @@ public class EventLocationController {
                 .body(converter.toDto(createdLocation));
     }
 
+    @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE)
+    public EventLocationImportReport importLocationsFromCsv(
+            InputStream csvInputStream
+    ) throws IOException {
+        log.debug("Post request for importing locations from csv");
+        return locationImportService.importFromCsv(csvInputStream);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public EventLocationImportReport importLocationsFromNdjson(
+            InputStream ndjsonInputStream
+    ) throws IOException {
+        log.debug("Post request for importing locations from ndjson");
+        return locationImportService.importFromNdjson(ndjsonInputStream);
+    }
+
     @PutMapping("/{id}")
     public EventLocationDto updateLocation(
             @PathVariable Integer id,
             @RequestBody @Valid EventLocationUpdateRequestDto locationFromUpdateRequest
     ) {
-        log.info("Put request for updating location: {}", locationFromUpdateRequest);
+        log.debug("Put request for updating location: {}", locationFromUpdateRequest);
         var updatedLocation = locationService
                 .updateLocation(id, converter.fromUpdateDtoToDomain(locationFromUpdateRequest));
         return converter.toDto(updatedLocation);
@@ -72,7 +129,7 @@ public class EventLocationController {
     public void deleteById(
             @PathVariable Integer id
     ) {
-        log.info("Delete request for deleting location by id: {}", id);
+        log.debug("Delete request for deleting location by id: {}", id);
         locationService.deleteLocation(id);
     }
 }
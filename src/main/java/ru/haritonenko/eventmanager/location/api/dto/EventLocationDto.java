@@ -18,6 +18,12 @@ public record EventLocationDto(
         Integer capacity,
         @NotBlank(message = "Location description can not be blank")
         @Size(min = 10, max = 100, message = "Min description size is 10, max is 100")
-        String description
+        String description,
+        @DecimalMin(value = "-90.0", message = "Min latitude is -90")
+        @DecimalMax(value = "90.0", message = "Max latitude is 90")
+        Double latitude,
+        @DecimalMin(value = "-180.0", message = "Min longitude is -180")
+        @DecimalMax(value = "180.0", message = "Max longitude is 180")
+        Double longitude
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package ru.haritonenko.eventmanager.location.api.dto.filter;
+
+import jakarta.validation.constraints.*;
+
+public record EventLocationNearbySearchFilter(
+        @NotNull(message = "Latitude can not be null")
+        @DecimalMin(value = "-90.0", message = "Min latitude is -90")
+        @DecimalMax(value = "90.0", message = "Max latitude is 90")
+        Double latitude,
+        @NotNull(message = "Longitude can not be null")
+        @DecimalMin(value = "-180.0", message = "Min longitude is -180")
+        @DecimalMax(value = "180.0", message = "Max longitude is 180")
+        Double longitude,
+        @DecimalMin(value = "0.1", message = "Min radius is 0.1 km")
+        @DecimalMax(value = "500.0", message = "Max radius is 500 km")
+        Double radiusKm,
+        @Min(value = 1, message = "Min limit is 1")
+        @Max(value = 100, message = "Max limit is 100")
+        Integer limit
+) {
+}
@@ -1,8 +1,11 @@
 package ru.haritonenko.eventmanager.location.api.dto.filter;
 
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 
+import static java.util.Objects.isNull;
+
 public record EventLocationSearchFilter(
         @Size(min = 1, max = 40, message = "Min name size is 1, max is 40")
         String name,
@@ -11,6 +14,12 @@ public record EventLocationSearchFilter(
         @Min(value = 0, message = "Min number of page is 0")
         Integer pageNumber,
         @Min(value = 3, message = "Min size of page is 3")
-        Integer pageSize
+        Integer pageSize,
+        @Size(min = 1, max = 20, message = "Min cursor size is 1, max is 20")
+        String after
 ) {
+    @AssertTrue(message = "Page number can not be used together with cursor")
+    public boolean isPageNumberWithoutCursor() {
+        return isNull(pageNumber) || isNull(after);
+    }
 }
@@ -0,0 +1,16 @@
+package ru.haritonenko.eventmanager.location.api.dto.filter;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record EventLocationTextSearchFilter(
+        @NotBlank(message = "Search query can not be blank")
+        @Size(min = 2, max = 40, message = "Min query size is 2, max is 40")
+        String query,
+        @Min(value = 1, message = "Min limit is 1")
+        @Max(value = 100, message = "Max limit is 100")
+        Integer limit
+) {
+}
@@ -0,0 +1,10 @@
+package ru.haritonenko.eventmanager.location.api.dto.importing;
+
+import java.util.List;
+
+public record EventLocationImportReport(
+        int importedRows,
+        int failedRows,
+        List<EventLocationImportRowError> errors
+) {
+}
@@ -0,0 +1,7 @@
+package ru.haritonenko.eventmanager.location.api.dto.importing;
+
+public record EventLocationImportRowError(
+        long lineNumber,
+        String message
+) {
+}
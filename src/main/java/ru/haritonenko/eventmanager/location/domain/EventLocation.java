@@ -5,6 +5,8 @@ public record EventLocation(
         String name,
         String address,
         Integer capacity,
-        String description
+        String description,
+        Double latitude,
+        Double longitude
 ) {
 }
@@ -15,7 +15,9 @@ public class EventLocationDtoConverter {
                 eventLocation.name(),
                 eventLocation.address(),
                 eventLocation.capacity(),
-                eventLocation.description()
+                eventLocation.description(),
+                eventLocation.latitude(),
+                eventLocation.longitude()
         );
     }
 
@@ -27,7 +29,9 @@ public class EventLocationDtoConverter {
                 eventLocationUpdateDto.name(),
                 eventLocationUpdateDto.address(),
                 eventLocationUpdateDto.capacity(),
-                eventLocationUpdateDto.description()
+                eventLocationUpdateDto.description(),
+                eventLocationUpdateDto.latitude(),
+                eventLocationUpdateDto.longitude()
         );
     }
 
@@ -39,7 +43,9 @@ public class EventLocationDtoConverter {
                 eventLocationCreateDto.name(),
                 eventLocationCreateDto.address(),
                 eventLocationCreateDto.capacity(),
-                eventLocationCreateDto.description()
+                eventLocationCreateDto.description(),
+                eventLocationCreateDto.latitude(),
+                eventLocationCreateDto.longitude()
         );
     }
 }
@@ -13,7 +13,9 @@ public class EventLocationEntityConverter {
                 eventLocationEntity.getName(),
                 eventLocationEntity.getAddress(),
                 eventLocationEntity.getCapacity(),
-                eventLocationEntity.getDescription()
+                eventLocationEntity.getDescription(),
+                eventLocationEntity.getLatitude(),
+                eventLocationEntity.getLongitude()
         );
     }
 }
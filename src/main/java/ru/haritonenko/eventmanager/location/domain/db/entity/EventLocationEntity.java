@@ -1,6 +1,8 @@
 package ru.haritonenko.eventmanager.location.domain.db.entity;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -16,7 +18,13 @@ import java.util.List;
 @ToString(exclude = {"events"})
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Entity
-@Table(name = "locations")
+@Table(
+        name = "locations",
+        indexes = {
+                @Index(name = "idx_locations_name", columnList = "name"),
+                @Index(name = "idx_locations_address", columnList = "address")
+        }
+)
 @NoArgsConstructor
 @AllArgsConstructor
 public class EventLocationEntity {
@@ -46,6 +54,14 @@ public class EventLocationEntity {
     @Column(nullable = false)
     private String description;
 
+    @DecimalMin(value = "-90.0", message = "Min latitude is -90")
+    @DecimalMax(value = "90.0", message = "Max latitude is 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Min longitude is -180")
+    @DecimalMax(value = "180.0", message = "Max longitude is 180")
+    private Double longitude;
+
     @NotNull(message = "Event events can not be null")
     @OneToMany(mappedBy = "location")
     private List<EventEntity> events = new ArrayList<>();
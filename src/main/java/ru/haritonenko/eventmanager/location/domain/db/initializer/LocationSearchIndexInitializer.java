@@ -0,0 +1,110 @@
+package ru.haritonenko.eventmanager.location.domain.db.initializer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationSearchIndexInitializer {
+
+    private static final String TRIGRAM_EXTENSION_EXISTS_SQL =
+            "SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')";
+    private static final String CREATE_TRIGRAM_EXTENSION_SQL = "CREATE EXTENSION IF NOT EXISTS pg_trgm";
+    private static final String INDEX_VALIDITY_SQL = "SELECT indisvalid FROM pg_index WHERE indexrelid = to_regclass(?)";
+    private static final List<SearchIndex> SEARCH_INDEXES = List.of(
+            new SearchIndex(
+                    "idx_locations_name_trgm",
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_locations_name_trgm " +
+                            "ON locations USING gin (name gin_trgm_ops)",
+                    true
+            ),
+            new SearchIndex(
+                    "idx_locations_address_trgm",
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_locations_address_trgm " +
+                            "ON locations USING gin (address gin_trgm_ops)",
+                    true
+            ),
+            new SearchIndex(
+                    "idx_locations_point_gist",
+                    "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_locations_point_gist " +
+                            "ON locations USING gist (point(longitude, latitude))",
+                    false
+            )
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean trigramSearchAvailable;
+
+    public boolean isTrigramSearchAvailable() {
+        return trigramSearchAvailable;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        boolean trigramExtensionInstalled = isTrigramExtensionInstalled();
+        if (!trigramExtensionInstalled) {
+            log.warn("Location text search falls back to substring matching until pg_trgm is installed");
+        }
+        int failedIndexes = 0;
+        for (SearchIndex searchIndex : SEARCH_INDEXES) {
+            if (searchIndex.requiresTrigram() && !trigramExtensionInstalled) {
+                failedIndexes++;
+            } else if (!createIndex(searchIndex)) {
+                failedIndexes++;
+            }
+        }
+        trigramSearchAvailable = trigramExtensionInstalled;
+        if (failedIndexes == 0) {
+            log.info("Location search indexes are ready");
+        } else {
+            log.error("{} of {} location search indexes are not ready", failedIndexes, SEARCH_INDEXES.size());
+        }
+    }
+
+    private boolean isTrigramExtensionInstalled() {
+        try {
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRIGRAM_EXTENSION_EXISTS_SQL, Boolean.class))) {
+                return true;
+            }
+            jdbcTemplate.execute(CREATE_TRIGRAM_EXTENSION_SQL);
+            return true;
+        } catch (DataAccessException ex) {
+            log.error("Error while installing pg_trgm extension, it has to be created by a database owner", ex);
+            return false;
+        }
+    }
+
+    private boolean createIndex(SearchIndex searchIndex) {
+        try {
+            List<Boolean> validity = jdbcTemplate.queryForList(INDEX_VALIDITY_SQL, Boolean.class, searchIndex.name());
+            if (!validity.isEmpty() && Boolean.TRUE.equals(validity.getFirst())) {
+                return true;
+            }
+            if (!validity.isEmpty()) {
+                log.warn("Dropping invalid location search index: {}", searchIndex.name());
+                jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + searchIndex.name());
+            }
+            jdbcTemplate.execute(searchIndex.createStatement());
+            return true;
+        } catch (DataAccessException ex) {
+            log.error("Error while creating location search index: {}", searchIndex.name(), ex);
+            return false;
+        }
+    }
+
+    private record SearchIndex(
+            String name,
+            String createStatement,
+            boolean requiresTrigram
+    ) {
+    }
+}
@@ -1,7 +1,7 @@
 package ru.haritonenko.eventmanager.location.domain.db.repository;
 
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,18 +12,63 @@ import ru.haritonenko.eventmanager.location.domain.db.entity.EventLocationEntity
 import java.util.List;
 
 @Repository
-public interface EventLocationRepository extends JpaRepository<EventLocationEntity, Integer> {
+public interface EventLocationRepository extends JpaRepository<EventLocationEntity, Integer>,
+        JpaSpecificationExecutor<EventLocationEntity> {
 
     @Transactional(readOnly = true)
-    @Query("""
-                SELECT l FROM EventLocationEntity l
-                WHERE (:name IS NULL OR l.name = :name)
-                AND (:address IS NULL OR l.address = :address)
-            """)
-    List<EventLocationEntity> searchBooks(
-            String name,
-            String address,
-            Pageable pageable
+    @Query(value = """
+                SELECT l.* FROM locations l
+                WHERE l.name ILIKE :prefix
+                   OR l.name % :query
+                   OR l.address % :query
+                ORDER BY greatest(similarity(l.name, :query), similarity(l.address, :query)) DESC, l.id
+                LIMIT :limit
+            """, nativeQuery = true)
+    List<EventLocationEntity> searchByText(
+            @Param("query") String query,
+            @Param("prefix") String prefix,
+            @Param("limit") int limit
+    );
+
+    @Transactional(readOnly = true)
+    @Query(value = """
+                SELECT l.* FROM locations l
+                WHERE l.name ILIKE :pattern
+                   OR l.address ILIKE :pattern
+                ORDER BY l.id
+                LIMIT :limit
+            """, nativeQuery = true)
+    List<EventLocationEntity> searchBySubstring(
+            @Param("pattern") String pattern,
+            @Param("limit") int limit
+    );
+
+    @Transactional(readOnly = true)
+    @Query(value = """
+                SELECT nearby.* FROM (
+                    SELECT l.*,
+                           2 * 6371 * asin(sqrt(
+                               power(sin(radians(l.latitude - :latitude) / 2), 2)
+                               + cos(radians(:latitude)) * cos(radians(l.latitude))
+                               * power(sin(radians(l.longitude - :longitude) / 2), 2)
+                           )) AS distance_km
+                    FROM locations l
+                    WHERE point(l.longitude, l.latitude)
+                          <@ box(point(:minLongitude, :minLatitude), point(:maxLongitude, :maxLatitude))
+                ) nearby
+                WHERE nearby.distance_km <= :radiusKm
+                ORDER BY nearby.distance_km, nearby.id
+                LIMIT :limit
+            """, nativeQuery = true)
+    List<EventLocationEntity> searchNearby(
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("minLatitude") double minLatitude,
+            @Param("maxLatitude") double maxLatitude,
+            @Param("minLongitude") double minLongitude,
+            @Param("maxLongitude") double maxLongitude,
+            @Param("radiusKm") double radiusKm,
+            @Param("limit") int limit
     );
 
     @Transactional
@@ -33,7 +78,9 @@ public interface EventLocationRepository extends JpaRepository<EventLocationEnti
                 SET l.name = :name,
                     l.address = :address,
                     l.capacity = :capacity,
-                    l.description = :description
+                    l.description = :description,
+                    l.latitude = :latitude,
+                    l.longitude = :longitude
                WHERE l.id = :id
             """)
     void updateLocation(
@@ -41,6 +88,8 @@ public interface EventLocationRepository extends JpaRepository<EventLocationEnti
             @Param("name") String name,
             @Param("address") String address,
             @Param("capacity") Integer capacity,
-            @Param("description") String description
+            @Param("description") String description,
+            @Param("latitude") Double latitude,
+            @Param("longitude") Double longitude
     );
 }
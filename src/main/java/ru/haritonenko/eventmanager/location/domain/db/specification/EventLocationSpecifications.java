@@ -0,0 +1,39 @@
+package ru.haritonenko.eventmanager.location.domain.db.specification;
+
+import org.springframework.data.jpa.domain.Specification;
+import ru.haritonenko.eventmanager.location.api.dto.filter.EventLocationSearchFilter;
+import ru.haritonenko.eventmanager.location.domain.db.entity.EventLocationEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Objects.nonNull;
+
+public final class EventLocationSpecifications {
+
+    private EventLocationSpecifications() {
+    }
+
+    public static Specification<EventLocationEntity> byFilter(EventLocationSearchFilter locationFilter) {
+        List<Specification<EventLocationEntity>> specifications = new ArrayList<>();
+        if (nonNull(locationFilter.name())) {
+            specifications.add(hasName(locationFilter.name()));
+        }
+        if (nonNull(locationFilter.address())) {
+            specifications.add(hasAddress(locationFilter.address()));
+        }
+        return Specification.allOf(specifications);
+    }
+
+    public static Specification<EventLocationEntity> hasName(String name) {
+        return (root, query, cb) -> cb.equal(root.get("name"), name);
+    }
+
+    public static Specification<EventLocationEntity> hasAddress(String address) {
+        return (root, query, cb) -> cb.equal(root.get("address"), address);
+    }
+
+    public static Specification<EventLocationEntity> idGreaterThan(Integer lastId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), lastId);
+    }
+}
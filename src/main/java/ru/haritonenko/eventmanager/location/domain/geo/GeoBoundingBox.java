@@ -0,0 +1,29 @@
+package ru.haritonenko.eventmanager.location.domain.geo;
+
+public record GeoBoundingBox(
+        double minLatitude,
+        double maxLatitude,
+        double minLongitude,
+        double maxLongitude
+) {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    public static GeoBoundingBox around(double latitude, double longitude, double radiusKm) {
+        double angularRadius = radiusKm / EARTH_RADIUS_KM;
+        double latitudeDelta = Math.toDegrees(angularRadius);
+        double minLatitude = latitude - latitudeDelta;
+        double maxLatitude = latitude + latitudeDelta;
+        if (minLatitude <= -90 || maxLatitude >= 90) {
+            return new GeoBoundingBox(Math.max(minLatitude, -90), Math.min(maxLatitude, 90), -180, 180);
+        }
+        double longitudeDelta = Math.toDegrees(Math.asin(
+                Math.sin(angularRadius) / Math.cos(Math.toRadians(latitude))));
+        double minLongitude = longitude - longitudeDelta;
+        double maxLongitude = longitude + longitudeDelta;
+        if (minLongitude < -180 || maxLongitude > 180) {
+            return new GeoBoundingBox(minLatitude, maxLatitude, -180, 180);
+        }
+        return new GeoBoundingBox(minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+}
@@ -0,0 +1,257 @@
+package ru.haritonenko.eventmanager.location.domain.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.haritonenko.eventmanager.location.api.dto.EventLocationCreateRequestDto;
+import ru.haritonenko.eventmanager.location.api.dto.importing.EventLocationImportReport;
+import ru.haritonenko.eventmanager.location.api.dto.importing.EventLocationImportRowError;
+import ru.haritonenko.eventmanager.location.domain.db.entity.EventLocationEntity;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventLocationImportService {
+
+    private static final String CSV_HEADER = "name,address,capacity,description";
+    private static final String CSV_HEADER_WITH_COORDINATES = CSV_HEADER + ",latitude,longitude";
+    private static final int CSV_COLUMNS_COUNT = 4;
+    private static final int CSV_COLUMNS_WITH_COORDINATES_COUNT = 6;
+    private static final String INSERT_LOCATION_SQL = """
+                INSERT INTO locations (name, address, capacity, description, latitude, longitude)
+                VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.location.import.batch-size}")
+    private int batchSize;
+
+    @Value("${app.location.import.max-reported-errors}")
+    private int maxReportedErrors;
+
+    public EventLocationImportReport importFromCsv(InputStream csvInputStream) throws IOException {
+        log.info("Importing locations from csv");
+        return importLines(csvInputStream, true, this::parseCsvRow);
+    }
+
+    public EventLocationImportReport importFromNdjson(InputStream ndjsonInputStream) throws IOException {
+        log.info("Importing locations from ndjson");
+        return importLines(ndjsonInputStream, false, this::parseNdjsonRow);
+    }
+
+    private EventLocationImportReport importLines(
+            InputStream inputStream,
+            boolean withHeader,
+            Function<String, EventLocationEntity> rowParser
+    ) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        List<Long> batchLineNumbers = new ArrayList<>(batchSize);
+        List<EventLocationImportRowError> errors = new ArrayList<>();
+        long lineNumber = 0;
+        int processedRows = 0;
+        int importedRows = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (withHeader && lineNumber == 1) {
+                checkCsvHeaderOrThrow(line);
+                continue;
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            processedRows++;
+            String rowError;
+            try {
+                var location = rowParser.apply(line);
+                rowError = getViolationsMessage(location);
+                if (isNull(rowError)) {
+                    batch.add(toInsertArgs(location));
+                    batchLineNumbers.add(lineNumber);
+                }
+            } catch (IllegalArgumentException | JacksonException ex) {
+                rowError = ex.getMessage();
+            }
+            if (nonNull(rowError)) {
+                addRowError(errors, lineNumber, rowError);
+            }
+            if (batch.size() == batchSize) {
+                importedRows += flushBatch(batch, batchLineNumbers, errors);
+            }
+        }
+        importedRows += flushBatch(batch, batchLineNumbers, errors);
+        int failedRows = processedRows - importedRows;
+        log.info("Locations import finished: imported={}, failed={}", importedRows, failedRows);
+        return new EventLocationImportReport(importedRows, failedRows, errors);
+    }
+
+    private int flushBatch(
+            List<Object[]> batch,
+            List<Long> batchLineNumbers,
+            List<EventLocationImportRowError> errors
+    ) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int flushedRows = batch.size();
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_LOCATION_SQL, batch));
+        } catch (DataAccessException ex) {
+            String batchError = "Batch insert failed: " + ex.getMostSpecificCause().getMessage();
+            log.warn("Error while inserting locations batch of {} rows: {}", flushedRows, batchError);
+            batchLineNumbers.forEach(batchLineNumber -> addRowError(errors, batchLineNumber, batchError));
+            flushedRows = 0;
+        } finally {
+            batch.clear();
+            batchLineNumbers.clear();
+        }
+        return flushedRows;
+    }
+
+    private void addRowError(List<EventLocationImportRowError> errors, long lineNumber, String rowError) {
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new EventLocationImportRowError(lineNumber, rowError));
+        }
+    }
+
+    private EventLocationEntity parseCsvRow(String line) {
+        var columns = splitCsvLine(line);
+        if (columns.size() != CSV_COLUMNS_COUNT && columns.size() != CSV_COLUMNS_WITH_COORDINATES_COUNT) {
+            throw new IllegalArgumentException("Expected %s or %s columns, got %s"
+                    .formatted(CSV_COLUMNS_COUNT, CSV_COLUMNS_WITH_COORDINATES_COUNT, columns.size()));
+        }
+        boolean withCoordinates = columns.size() == CSV_COLUMNS_WITH_COORDINATES_COUNT;
+        return newLocation(
+                columns.get(0),
+                columns.get(1),
+                Integer.valueOf(columns.get(2).trim()),
+                columns.get(3),
+                withCoordinates ? parseCoordinate(columns.get(4)) : null,
+                withCoordinates ? parseCoordinate(columns.get(5)) : null
+        );
+    }
+
+    private EventLocationEntity parseNdjsonRow(String line) {
+        var locationFromRow = objectMapper.readValue(line, EventLocationCreateRequestDto.class);
+        if (isNull(locationFromRow)) {
+            throw new IllegalArgumentException("Row must be a json object");
+        }
+        return newLocation(
+                locationFromRow.name(),
+                locationFromRow.address(),
+                locationFromRow.capacity(),
+                locationFromRow.description(),
+                locationFromRow.latitude(),
+                locationFromRow.longitude()
+        );
+    }
+
+    private EventLocationEntity newLocation(
+            String name,
+            String address,
+            Integer capacity,
+            String description,
+            Double latitude,
+            Double longitude
+    ) {
+        return new EventLocationEntity(
+                null,
+                name,
+                address,
+                capacity,
+                description,
+                latitude,
+                longitude,
+                new ArrayList<>()
+        );
+    }
+
+    private Double parseCoordinate(String column) {
+        return column.isBlank() ? null : Double.valueOf(column.trim());
+    }
+
+    private Object[] toInsertArgs(EventLocationEntity location) {
+        return new Object[]{
+                location.getName(),
+                location.getAddress(),
+                location.getCapacity(),
+                location.getDescription(),
+                location.getLatitude(),
+                location.getLongitude()
+        };
+    }
+
+    private String getViolationsMessage(EventLocationEntity location) {
+        var violations = validator.validate(location);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining(","));
+    }
+
+    private void checkCsvHeaderOrThrow(String header) {
+        String strippedHeader = header.strip();
+        if (!CSV_HEADER.equalsIgnoreCase(strippedHeader)
+                && !CSV_HEADER_WITH_COORDINATES.equalsIgnoreCase(strippedHeader)) {
+            log.warn("Error while reading csv header: {}", header);
+            throw new IllegalArgumentException("Csv header must be: %s or %s"
+                    .formatted(CSV_HEADER, CSV_HEADER_WITH_COORDINATES));
+        }
+    }
+
+    private static List<String> splitCsvLine(String line) {
+        List<String> columns = new ArrayList<>();
+        var column = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    column.append('"');
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (c == ',' && !inQuotes) {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(c);
+            }
+        }
+        if (inQuotes) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+        }
+        columns.add(column.toString());
+        return columns;
+    }
+}
@@ -3,23 +3,32 @@ package ru.haritonenko.eventmanager.location.domain.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.haritonenko.eventmanager.cache.configuration.CacheConfiguration;
 import ru.haritonenko.eventmanager.location.domain.converter.EventLocationEntityConverter;
 import ru.haritonenko.eventmanager.location.domain.exception.LocationCountPlacesException;
 import ru.haritonenko.eventmanager.location.domain.EventLocation;
 import ru.haritonenko.eventmanager.location.domain.db.entity.EventLocationEntity;
 import ru.haritonenko.eventmanager.location.domain.exception.LocationNotFoundException;
+import ru.haritonenko.eventmanager.location.api.dto.filter.EventLocationNearbySearchFilter;
 import ru.haritonenko.eventmanager.location.api.dto.filter.EventLocationSearchFilter;
+import ru.haritonenko.eventmanager.location.api.dto.filter.EventLocationTextSearchFilter;
+import ru.haritonenko.eventmanager.location.domain.db.initializer.LocationSearchIndexInitializer;
 import ru.haritonenko.eventmanager.location.domain.db.repository.EventLocationRepository;
+import ru.haritonenko.eventmanager.location.domain.geo.GeoBoundingBox;
+import ru.haritonenko.eventmanager.location.domain.db.specification.EventLocationSpecifications;
+import ru.haritonenko.eventmanager.pagination.cursor.PageCursorCodec;
 
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -28,6 +37,8 @@ public class EventLocationService {
 
     private final EventLocationRepository locationRepository;
     private final EventLocationEntityConverter converter;
+    private final PageCursorCodec cursorCodec;
+    private final LocationSearchIndexInitializer searchIndexInitializer;
 
     @Value("${app.location.default-page-size}")
     private int defaultPageSize;
@@ -35,27 +46,88 @@ public class EventLocationService {
     @Value("${app.location.default-page-number}")
     private int defaultPageNumber;
 
+    @Value("${app.location.nearby.default-radius-km}")
+    private double defaultNearbyRadiusKm;
+
+    @Transactional(readOnly = true)
     public List<EventLocation> getAllLocations(
             EventLocationSearchFilter locationFilter
     ) {
-        log.info("Searching locations");
-        int pageSize = Objects.nonNull(locationFilter.pageSize())
-                ? locationFilter.pageSize() : defaultPageSize;
+        log.debug("Searching locations");
+        int pageSize = getPageSize(locationFilter);
+        var locationSpecification = EventLocationSpecifications.byFilter(locationFilter);
+        if (Objects.nonNull(locationFilter.after())) {
+            Integer lastId = cursorCodec.decode(locationFilter.after());
+            return locationRepository.findBy(
+                            locationSpecification.and(EventLocationSpecifications.idGreaterThan(lastId)),
+                            query -> query
+                                    .sortBy(Sort.by("id"))
+                                    .limit(pageSize)
+                                    .all()
+                    )
+                    .stream()
+                    .map(converter::toDomain)
+                    .toList();
+        }
         int pageNumber = Objects.nonNull(locationFilter.pageNumber())
                 ? locationFilter.pageNumber() : defaultPageNumber;
 
-        Pageable pageable = Pageable
-                .ofSize(pageSize)
-                .withPage(pageNumber);
-        return locationRepository.searchBooks(
-                        locationFilter.name(),
-                        locationFilter.address(),
-                        pageable
+        var pageable = PageRequest.of(pageNumber, pageSize, Sort.by("id"));
+        return locationRepository.findAll(locationSpecification, pageable)
+                .stream()
+                .map(converter::toDomain)
+                .toList();
+    }
+
+    public int getPageSize(EventLocationSearchFilter locationFilter) {
+        return Objects.nonNull(locationFilter.pageSize())
+                ? locationFilter.pageSize() : defaultPageSize;
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventLocation> searchLocationsByText(
+            EventLocationTextSearchFilter textSearchFilter
+    ) {
+        log.debug("Searching locations by text: {}", textSearchFilter.query());
+        int limit = Objects.nonNull(textSearchFilter.limit())
+                ? textSearchFilter.limit() : defaultPageSize;
+        String query = textSearchFilter.query().strip();
+        var foundLocations = searchIndexInitializer.isTrigramSearchAvailable()
+                ? locationRepository.searchByText(query, escapeLikePattern(query) + "%", limit)
+                : locationRepository.searchBySubstring("%" + escapeLikePattern(query) + "%", limit);
+        return foundLocations
+                .stream()
+                .map(converter::toDomain)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventLocation> searchNearbyLocations(
+            EventLocationNearbySearchFilter nearbySearchFilter
+    ) {
+        log.debug("Searching locations near: {}, {}",
+                nearbySearchFilter.latitude(), nearbySearchFilter.longitude());
+        double latitude = nearbySearchFilter.latitude();
+        double longitude = nearbySearchFilter.longitude();
+        double radiusKm = Objects.nonNull(nearbySearchFilter.radiusKm())
+                ? nearbySearchFilter.radiusKm() : defaultNearbyRadiusKm;
+        int limit = Objects.nonNull(nearbySearchFilter.limit())
+                ? nearbySearchFilter.limit() : defaultPageSize;
+
+        var boundingBox = GeoBoundingBox.around(latitude, longitude, radiusKm);
+        return locationRepository.searchNearby(
+                        latitude,
+                        longitude,
+                        boundingBox.minLatitude(),
+                        boundingBox.maxLatitude(),
+                        boundingBox.minLongitude(),
+                        boundingBox.maxLongitude(),
+                        radiusKm,
+                        limit
                 )
                 .stream()
                 .map(converter::toDomain)
-                .sorted(Comparator.comparing(EventLocation::id))
-                .collect(Collectors.toList());
+                .toList();
     }
 
     @Transactional
@@ -67,6 +139,8 @@ public class EventLocationService {
                 eventLocationToCreate.address(),
                 eventLocationToCreate.capacity(),
                 eventLocationToCreate.description(),
+                eventLocationToCreate.latitude(),
+                eventLocationToCreate.longitude(),
                 new ArrayList<>()
         );
         var savedLocationEntity = locationRepository.save(newLocation);
@@ -75,18 +149,20 @@ public class EventLocationService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfiguration.LOCATIONS_CACHE, key = "#id")
     public EventLocation getLocationById(Integer id) {
-        log.info("Getting location by id: {}", id);
+        log.debug("Getting location by id: {}", id);
         var foundLocation = locationRepository.findById(id)
                 .orElseThrow(() -> {
                     log.warn("Error while searching for location by id: {}", id);
                     return new LocationNotFoundException(
                             "No found location by id = %s".formatted(id));
                 });
-        log.info("Location was successfully found by id: {}", id);
+        log.debug("Location was successfully found by id: {}", id);
         return converter.toDomain(foundLocation);
     }
 
+    @CachePut(cacheNames = CacheConfiguration.LOCATIONS_CACHE, key = "#id")
     public EventLocation updateLocation(Integer id, EventLocation eventLocationToUpdate) {
         log.info("Updating location with id: {}", id);
         checkLocationIsExistedByIdOrThrow(id);
@@ -96,7 +172,9 @@ public class EventLocationService {
                 eventLocationToUpdate.name(),
                 eventLocationToUpdate.address(),
                 eventLocationToUpdate.capacity(),
-                eventLocationToUpdate.description()
+                eventLocationToUpdate.description(),
+                eventLocationToUpdate.latitude(),
+                eventLocationToUpdate.longitude()
         );
         log.info("Location with id: {} was successfully updated", id);
         return converter.toDomain(
@@ -104,6 +182,7 @@ public class EventLocationService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfiguration.LOCATIONS_CACHE, key = "#id")
     public void deleteLocation(Integer id) {
         log.info("Deleting location by id: {}", id);
         checkLocationIsExistedByIdOrThrow(id);
@@ -111,6 +190,13 @@ public class EventLocationService {
         log.info("Location was successfully deleted by id: {}", id);
     }
 
+    private String escapeLikePattern(String value) {
+        return value
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
     private void checkLocationIsExistedByIdOrThrow(
             Integer id
     ) {
@@ -0,0 +1,27 @@
+package ru.haritonenko.eventmanager.pagination.cursor;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Component
+public class PageCursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode(Integer lastId) {
+        return ENCODER.encodeToString(
+                String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Integer decode(String cursor) {
+        try {
+            return Integer.valueOf(
+                    new String(DECODER.decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid page cursor: %s".formatted(cursor));
+        }
+    }
+}
@@ -12,6 +12,7 @@ import ru.haritonenko.eventmanager.user.security.service.AuthenticationService;
 import ru.haritonenko.eventmanager.user.security.jwt.JwtResponse;
 import ru.haritonenko.eventmanager.user.domain.converter.UserDtoConverter;
 import ru.haritonenko.eventmanager.user.api.dto.UserDto;
+import ru.haritonenko.eventmanager.user.api.dto.authorization.RefreshTokenRequest;
 import ru.haritonenko.eventmanager.user.api.dto.authorization.UserCredentials;
 import ru.haritonenko.eventmanager.user.api.dto.registration.UserRegistration;
 import ru.haritonenko.eventmanager.user.domain.service.UserService;
@@ -35,7 +36,7 @@ public class UserController {
     public UserDto getUserById(
             @PathVariable Integer id
     ) {
-        log.info("Get request for getting user by id: {}", id);
+        log.debug("Get request for getting user by id: {}", id);
         var foundUser = userService.getUserById(id);
         return converter.toDto(foundUser);
     }
@@ -44,7 +45,7 @@ public class UserController {
     public ResponseEntity<UserDto> registerUser(
             @Valid @RequestBody UserRegistration userFromSignUpRequest
     ) {
-        log.info("Post request for sign-up login: {}", userFromSignUpRequest.login());
+        log.debug("Post request for sign-up login: {}", userFromSignUpRequest.login());
         var registeredUser = userService.register(userFromSignUpRequest);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -55,11 +56,33 @@ public class UserController {
     public ResponseEntity<JwtResponse> authenticateUser(
             @Valid @RequestBody UserCredentials userFromSignInRequest
     ) {
-        log.info("Post request for authenticating login: {}", userFromSignInRequest.login());
-        var token = jwtAuthenticationService.authenticate(userFromSignInRequest);
+        log.debug("Post request for authenticating login: {}", userFromSignInRequest.login());
+        var tokens = jwtAuthenticationService.authenticate(userFromSignInRequest);
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(new JwtResponse(token));
+                .body(tokens);
+    }
+
+    @PostMapping("/auth/refresh")
+    public ResponseEntity<JwtResponse> refreshTokens(
+            @Valid @RequestBody RefreshTokenRequest refreshTokenRequest
+    ) {
+        log.debug("Post request for refreshing tokens");
+        var tokens = jwtAuthenticationService.refresh(refreshTokenRequest.refreshToken());
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(tokens);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @Valid @RequestBody(required = false) RefreshTokenRequest refreshTokenRequest
+    ) {
+        log.debug("Post request for logout");
+        jwtAuthenticationService.logout(isNull(refreshTokenRequest) ? null : refreshTokenRequest.refreshToken());
+        return ResponseEntity
+                .noContent()
+                .build();
     }
 
     @GetMapping("/debug/auth")
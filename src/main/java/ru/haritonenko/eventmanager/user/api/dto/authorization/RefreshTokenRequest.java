@@ -0,0 +1,9 @@
+package ru.haritonenko.eventmanager.user.api.dto.authorization;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+        @NotBlank(message = "Refresh token can not be blank")
+        String refreshToken
+) {
+}
@@ -5,7 +5,7 @@ import ru.haritonenko.eventmanager.user.domain.role.UserRole;
 public record User(
         Integer id,
         String login,
-        int age,
+        Integer age,
         UserRole role
 ) {
 }
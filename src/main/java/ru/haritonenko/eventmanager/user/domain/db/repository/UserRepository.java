@@ -1,6 +1,9 @@
 package ru.haritonenko.eventmanager.user.domain.db.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import ru.haritonenko.eventmanager.user.domain.db.entity.UserEntity;
@@ -15,4 +18,16 @@ public interface UserRepository extends JpaRepository<UserEntity, Integer> {
 
     @Transactional(readOnly = true)
     Optional<UserEntity> findByLogin(String login);
+
+    @Transactional
+    @Modifying
+    @Query("""
+                UPDATE UserEntity u
+                SET u.password = :password
+                WHERE u.login = :login
+            """)
+    void updatePasswordByLogin(
+            @Param("login") String login,
+            @Param("password") String password
+    );
 }
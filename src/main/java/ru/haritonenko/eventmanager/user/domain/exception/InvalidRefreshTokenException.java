@@ -0,0 +1,7 @@
+package ru.haritonenko.eventmanager.user.domain.exception;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package ru.haritonenko.eventmanager.user.domain.exception;
+
+public class PasswordHashingOverloadedException extends RuntimeException {
+    public PasswordHashingOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -27,14 +27,14 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public User getUserById(Integer id) {
-        log.info("Getting user by id: {}", id);
+        log.debug("Getting user by id: {}", id);
         var foundUser = userRepository.findById(id)
                 .orElseThrow(() -> {
                     log.warn("Error while getting user by id");
                     return new UserNotFoundException(
                             "No found user by id = %s".formatted(id));
                 });
-        log.info("User was successfully found by id: {}", id);
+        log.debug("User was successfully found by id: {}", id);
         return converter.toDomain(foundUser);
     }
 
@@ -61,13 +61,13 @@ public class UserService {
     }
 
     public User findByLogin(String login) {
-        log.info("Searching for user by login: {}", login);
+        log.debug("Searching for user by login: {}", login);
         var foundUser = userRepository.findByLogin(login)
                 .orElseThrow(() -> {
                     log.warn("Error while finding user by login");
                     return new UserNotFoundException("User not found");
                 });
-        log.info("User was successfully found by login: {}", login);
+        log.debug("User was successfully found by login: {}", login);
         return converter.toDomain(foundUser);
     }
 }
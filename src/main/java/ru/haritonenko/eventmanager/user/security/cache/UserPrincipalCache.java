@@ -0,0 +1,35 @@
+package ru.haritonenko.eventmanager.user.security.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.haritonenko.eventmanager.user.domain.User;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class UserPrincipalCache {
+
+    @Value("${app.security.principal-cache.maximum-size}")
+    private long maximumSize;
+
+    @Value("${app.security.principal-cache.expire-after-write-ms}")
+    private long expireAfterWriteMs;
+
+    private Cache<String, User> principalsByLogin;
+
+    @PostConstruct
+    void init() {
+        this.principalsByLogin = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+                .build();
+    }
+
+    public User get(String login, Function<String, User> loader) {
+        return principalsByLogin.get(login, loader);
+    }
+}
@@ -1,6 +1,7 @@
 package ru.haritonenko.eventmanager.user.security.configuration;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,13 +14,18 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
 import ru.haritonenko.eventmanager.user.security.custom.handler.CustomAccessDeniedHandler;
 import ru.haritonenko.eventmanager.user.security.custom.authentification.CustomAuthenticationEntryPoint;
 import ru.haritonenko.eventmanager.user.security.custom.service.CustomUserDetailsService;
 import ru.haritonenko.eventmanager.user.security.jwt.filter.JwtTokenFilter;
+import ru.haritonenko.eventmanager.user.security.password.BoundedPasswordEncoder;
+
+import java.util.Map;
 
 @Configuration
 @RequiredArgsConstructor
@@ -43,15 +49,22 @@ public class SecurityConfiguration {
                                 "/swagger-ui.html",
                                 "/v3/api-docs/**",
                                 "/v3/api-docs",
-                                "/openapi.yaml"
+                                "/openapi.yaml",
+                                "/actuator/health",
+                                "/actuator/prometheus"
                         ).permitAll()
                         .requestMatchers(HttpMethod.GET, "/users/{id}").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.POST, "/users").permitAll()
                         .requestMatchers(HttpMethod.POST, "/users/auth").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/users/auth/refresh").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/users/logout").hasAnyAuthority("ADMIN", "USER")
 
                         .requestMatchers(HttpMethod.GET, "/locations").hasAnyAuthority("ADMIN", "USER")
+                        .requestMatchers(HttpMethod.GET, "/locations/text-search").hasAnyAuthority("ADMIN", "USER")
+                        .requestMatchers(HttpMethod.GET, "/locations/nearby").hasAnyAuthority("ADMIN", "USER")
                         .requestMatchers(HttpMethod.GET, "/locations/{id}").hasAnyAuthority("ADMIN", "USER")
                         .requestMatchers(HttpMethod.POST, "/locations").hasAuthority("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/locations/import").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/locations/{id}").hasAuthority("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/locations/{id}").hasAuthority("ADMIN")
 
@@ -84,14 +97,37 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider(customUserDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsPasswordService(customUserDetailsService);
         return provider;
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${app.security.password.encoder-id}") String encoderId,
+            @Value("${app.security.password.bcrypt-strength}") int bcryptStrength,
+            @Value("${app.security.password.hashing-threads}") int hashingThreads,
+            @Value("${app.security.password.queue-capacity}") int queueCapacity,
+            @Value("${app.security.password.wait-timeout-ms}") long waitTimeoutMs
+    ) {
+        var bcryptEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        var pbkdf2Encoder = Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+        pbkdf2Encoder.setEncodeHashAsBase64(true);
+        var delegatingEncoder = new DelegatingPasswordEncoder(
+                encoderId,
+                Map.of(
+                        "bcrypt", bcryptEncoder,
+                        "pbkdf2", pbkdf2Encoder
+                )
+        );
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(bcryptEncoder);
+        return new BoundedPasswordEncoder(
+                delegatingEncoder,
+                hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors(),
+                queueCapacity,
+                waitTimeoutMs
+        );
     }
 }
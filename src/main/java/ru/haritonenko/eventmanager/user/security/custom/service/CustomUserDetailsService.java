@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
@@ -13,23 +14,32 @@ import ru.haritonenko.eventmanager.user.domain.db.repository.UserRepository;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
-        log.info("Loading user by login: {}", username);
+        log.debug("Loading user by login: {}", username);
         var user = userRepository.findByLogin(username)
                 .orElseThrow(() -> {
                     log.warn("Error while searching for user by login: {}", username);
                     return new UserNotFoundException("User not found by login: %s".formatted(username));
                 });
-        log.info("User with login: {} was successfully loaded", username);
+        log.debug("User with login: {} was successfully loaded", username);
         return User.withUsername(username)
                 .password(user.getPassword())
                 .authorities(String.valueOf(user.getUserRole()))
                 .build();
     }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        log.info("Upgrading password hash for login: {}", user.getUsername());
+        userRepository.updatePasswordByLogin(user.getUsername(), newPassword);
+        return User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
 }
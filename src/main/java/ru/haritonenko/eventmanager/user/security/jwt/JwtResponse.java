@@ -1,6 +1,7 @@
 package ru.haritonenko.eventmanager.user.security.jwt;
 
 public record JwtResponse(
-        String jwt
+        String jwt,
+        String refreshToken
 ) {
 }
@@ -0,0 +1,15 @@
+package ru.haritonenko.eventmanager.user.security.jwt;
+
+import ru.haritonenko.eventmanager.user.domain.role.UserRole;
+
+public record JwtTokenClaims(
+        String tokenId,
+        String familyId,
+        JwtTokenType tokenType,
+        String login,
+        Integer userId,
+        UserRole role,
+        long issuedAtMillis,
+        long expiresAtMillis
+) {
+}
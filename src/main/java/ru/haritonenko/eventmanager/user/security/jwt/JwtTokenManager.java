@@ -1,47 +1,127 @@
 package ru.haritonenko.eventmanager.user.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import ru.haritonenko.eventmanager.user.domain.User;
+import ru.haritonenko.eventmanager.user.domain.role.UserRole;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 @Component
 public class JwtTokenManager {
 
+    private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final String FAMILY_ID_CLAIM = "fid";
+    private static final String USER_ID_CLAIM = "id";
+    private static final String ROLE_CLAIM = "role";
+
     @Value("${jwt.secret-key}")
     private String keyString;
 
-    @Value("${jwt.lifetime}")
-    private long expirationTime;
+    @Value("${jwt.access-lifetime}")
+    private long accessTokenLifetime;
+
+    @Value("${jwt.refresh-lifetime}")
+    private long refreshTokenLifetime;
+
+    @Value("${jwt.verified-token-cache.maximum-size}")
+    private long verifiedTokenCacheSize;
 
     private SecretKey key;
 
+    private JwtParser jwtParser;
+
+    private Cache<String, JwtTokenClaims> verifiedTokens;
+
     @PostConstruct
     void init() {
         this.key = Keys.hmacShaKeyFor(keyString.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .build();
     }
 
-    public String generateToken(String login) {
+    public String generateAccessToken(User user) {
+        long now = System.currentTimeMillis();
         return Jwts
                 .builder()
-                .subject(login)
+                .id(UUID.randomUUID().toString())
+                .subject(user.login())
+                .claim(TOKEN_TYPE_CLAIM, JwtTokenType.ACCESS.name())
+                .claim(USER_ID_CLAIM, user.id())
+                .claim(ROLE_CLAIM, user.role().name())
                 .signWith(key)
-                .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + expirationTime))
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + accessTokenLifetime))
                 .compact();
     }
 
-    public String getLoginFromToken(String jwt) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
+    public String generateRefreshToken(User user) {
+        return generateRefreshToken(user, UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    }
+
+    public String generateRefreshToken(User user, String familyId, String tokenId) {
+        long now = System.currentTimeMillis();
+        return Jwts
+                .builder()
+                .id(tokenId)
+                .subject(user.login())
+                .claim(TOKEN_TYPE_CLAIM, JwtTokenType.REFRESH.name())
+                .claim(FAMILY_ID_CLAIM, familyId)
+                .signWith(key)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + refreshTokenLifetime))
+                .compact();
+    }
+
+    public JwtTokenClaims parseToken(String jwt) {
+        var verifiedToken = verifiedTokens.getIfPresent(jwt);
+        if (nonNull(verifiedToken)) {
+            if (verifiedToken.expiresAtMillis() > System.currentTimeMillis()) {
+                return verifiedToken;
+            }
+            verifiedTokens.invalidate(jwt);
+        }
+        Claims claims = jwtParser
                 .parseSignedClaims(jwt)
-                .getPayload()
-                .getSubject();
+                .getPayload();
+        var tokenClaims = toTokenClaims(claims);
+        verifiedTokens.put(jwt, tokenClaims);
+        return tokenClaims;
+    }
+
+    private JwtTokenClaims toTokenClaims(Claims claims) {
+        if (isNull(claims.getExpiration())) {
+            throw new MalformedJwtException("Jwt has no expiration");
+        }
+        String tokenType = claims.get(TOKEN_TYPE_CLAIM, String.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        return new JwtTokenClaims(
+                claims.getId(),
+                claims.get(FAMILY_ID_CLAIM, String.class),
+                isNull(tokenType) ? JwtTokenType.ACCESS : JwtTokenType.valueOf(tokenType),
+                claims.getSubject(),
+                claims.get(USER_ID_CLAIM, Integer.class),
+                isNull(role) ? null : UserRole.valueOf(role),
+                isNull(claims.getIssuedAt()) ? 0 : claims.getIssuedAt().getTime(),
+                claims.getExpiration().getTime()
+        );
     }
 }
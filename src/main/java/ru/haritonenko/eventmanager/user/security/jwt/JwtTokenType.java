@@ -0,0 +1,6 @@
+package ru.haritonenko.eventmanager.user.security.jwt;
+
+public enum JwtTokenType {
+    ACCESS,
+    REFRESH
+}
@@ -1,18 +1,27 @@
 package ru.haritonenko.eventmanager.user.security.jwt.filter;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import ru.haritonenko.eventmanager.user.security.cache.UserPrincipalCache;
+import ru.haritonenko.eventmanager.user.security.jwt.JwtTokenClaims;
 import ru.haritonenko.eventmanager.user.security.jwt.JwtTokenManager;
+import ru.haritonenko.eventmanager.user.security.jwt.JwtTokenType;
+import ru.haritonenko.eventmanager.user.security.jwt.revocation.RevokedTokenRegistry;
 import ru.haritonenko.eventmanager.user.domain.User;
 import ru.haritonenko.eventmanager.user.domain.service.UserService;
 
@@ -20,6 +29,7 @@ import java.io.IOException;
 import java.util.List;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 @Slf4j
 @Component
@@ -28,6 +38,37 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 
     private final JwtTokenManager jwtTokenManager;
     private final UserService userService;
+    private final UserPrincipalCache principalCache;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.principal-from-claims}")
+    private boolean principalFromClaims;
+
+    private Timer tokenParseTimer;
+    private Timer principalLookupTimer;
+    private Counter claimsPrincipalCounter;
+    private Counter invalidTokenCounter;
+    private Counter revokedTokenCounter;
+
+    @PostConstruct
+    void init() {
+        this.tokenParseTimer = Timer.builder("auth.jwt.parse")
+                .description("Time to verify and parse a bearer token")
+                .register(meterRegistry);
+        this.principalLookupTimer = Timer.builder("auth.principal.lookup")
+                .description("Time to resolve the authenticated user through the principal cache")
+                .register(meterRegistry);
+        this.claimsPrincipalCounter = Counter.builder("auth.principal.claims")
+                .description("Authenticated users built from token claims without a lookup")
+                .register(meterRegistry);
+        this.invalidTokenCounter = Counter.builder("auth.jwt.invalid")
+                .description("Bearer tokens rejected by the parser")
+                .register(meterRegistry);
+        this.revokedTokenCounter = Counter.builder("auth.jwt.revoked")
+                .description("Bearer tokens rejected as revoked or not being access tokens")
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -37,31 +78,57 @@ public class JwtTokenFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (isNull(authorizationHeader) || !authorizationHeader.startsWith("Bearer ")) {
-            log.warn("Invalid header");
+            log.debug("No bearer token in authorization header");
             filterChain.doFilter(request, response);
             return;
         }
         var jwtTokenWithoutWordBearer = authorizationHeader.substring(7);
-        String loginFromToken;
+        JwtTokenClaims tokenClaims;
         try {
-            log.info("Getting login from token");
-            loginFromToken = jwtTokenManager.getLoginFromToken(jwtTokenWithoutWordBearer);
+            log.debug("Getting claims from token");
+            tokenClaims = tokenParseTimer.record(() ->
+                    jwtTokenManager.parseToken(jwtTokenWithoutWordBearer));
         } catch (Exception ex) {
-            log.warn("Error while reading jwt", ex);
+            invalidTokenCounter.increment();
+            log.warn("Error while reading jwt: {}", ex.getMessage());
+            log.debug("Jwt reading failure details", ex);
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (tokenClaims.tokenType() != JwtTokenType.ACCESS || revokedTokenRegistry.isAccessTokenRevoked(tokenClaims)) {
+            revokedTokenCounter.increment();
+            log.debug("Bearer token is revoked or is not an access token");
             filterChain.doFilter(request, response);
             return;
         }
-        log.info("Searching for user by login");
-        User user = userService.findByLogin(loginFromToken);
-        log.info("Getting token for user");
+        User user = getPrincipal(tokenClaims);
+        log.debug("Getting token for user");
         UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(
                 user,
                 null,
                 List.of(new SimpleGrantedAuthority(user.role().toString()))
         );
+        token.setDetails(tokenClaims);
         SecurityContextHolder.getContext()
                 .setAuthentication(token);
         filterChain.doFilter(request, response);
-        log.info("Token was set for user");
+        log.debug("Token was set for user");
+    }
+
+    private User getPrincipal(JwtTokenClaims tokenClaims) {
+        if (principalFromClaims
+                && nonNull(tokenClaims.userId())
+                && nonNull(tokenClaims.role())) {
+            claimsPrincipalCounter.increment();
+            return new User(
+                    tokenClaims.userId(),
+                    tokenClaims.login(),
+                    null,
+                    tokenClaims.role()
+            );
+        }
+        log.debug("Searching for user by login");
+        return principalLookupTimer.record(() ->
+                principalCache.get(tokenClaims.login(), userService::findByLogin));
     }
 }
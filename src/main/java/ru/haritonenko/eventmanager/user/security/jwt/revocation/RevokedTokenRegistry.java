@@ -0,0 +1,88 @@
+package ru.haritonenko.eventmanager.user.security.jwt.revocation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.haritonenko.eventmanager.user.security.jwt.JwtTokenClaims;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Slf4j
+@Component
+public class RevokedTokenRegistry {
+
+    private final Map<String, Long> revokedAccessTokenExpirations = new ConcurrentHashMap<>();
+    private final Map<String, RefreshTokenFamily> refreshTokenFamilies = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurgeAtMillis = new AtomicLong();
+
+    @Value("${jwt.refresh-lifetime}")
+    private long refreshTokenLifetime;
+
+    @Value("${jwt.revocation.purge-interval-ms}")
+    private long purgeIntervalMs;
+
+    public void revokeAccessToken(JwtTokenClaims accessTokenClaims) {
+        purgeExpiredIfDue();
+        if (nonNull(accessTokenClaims.tokenId())) {
+            revokedAccessTokenExpirations.put(accessTokenClaims.tokenId(), accessTokenClaims.expiresAtMillis());
+        }
+    }
+
+    public boolean isAccessTokenRevoked(JwtTokenClaims accessTokenClaims) {
+        return nonNull(accessTokenClaims.tokenId())
+                && revokedAccessTokenExpirations.containsKey(accessTokenClaims.tokenId());
+    }
+
+    public boolean rotateRefreshToken(JwtTokenClaims refreshTokenClaims, String nextTokenId) {
+        purgeExpiredIfDue();
+        String familyId = refreshTokenClaims.familyId();
+        var nextFamily = new RefreshTokenFamily(nextTokenId, System.currentTimeMillis() + refreshTokenLifetime);
+        var family = refreshTokenFamilies.get(familyId);
+        if (isNull(family)) {
+            return isNull(refreshTokenFamilies.putIfAbsent(familyId, nextFamily));
+        }
+        if (!Objects.equals(family.currentTokenId(), refreshTokenClaims.tokenId())) {
+            log.warn("Reused refresh token, revoking token family for login: {}", refreshTokenClaims.login());
+            revokeRefreshTokenFamily(refreshTokenClaims);
+            return false;
+        }
+        return refreshTokenFamilies.replace(familyId, family, nextFamily);
+    }
+
+    public void revokeRefreshTokenFamily(JwtTokenClaims refreshTokenClaims) {
+        purgeExpiredIfDue();
+        refreshTokenFamilies.put(
+                refreshTokenClaims.familyId(),
+                new RefreshTokenFamily(null, System.currentTimeMillis() + refreshTokenLifetime)
+        );
+    }
+
+    public boolean isRefreshTokenRevoked(JwtTokenClaims refreshTokenClaims) {
+        var family = refreshTokenFamilies.get(refreshTokenClaims.familyId());
+        return nonNull(family) && !Objects.equals(family.currentTokenId(), refreshTokenClaims.tokenId());
+    }
+
+    private void purgeExpiredIfDue() {
+        long now = System.currentTimeMillis();
+        long purgeAtMillis = nextPurgeAtMillis.get();
+        if (now < purgeAtMillis || !nextPurgeAtMillis.compareAndSet(purgeAtMillis, now + purgeIntervalMs)) {
+            return;
+        }
+        revokedAccessTokenExpirations.values().removeIf(expiresAtMillis -> expiresAtMillis <= now);
+        refreshTokenFamilies.values().removeIf(family -> family.expiresAtMillis() <= now);
+        log.debug("Revoked tokens purged, remaining access tokens: {}, refresh token families: {}",
+                revokedAccessTokenExpirations.size(), refreshTokenFamilies.size());
+    }
+
+    private record RefreshTokenFamily(
+            String currentTokenId,
+            long expiresAtMillis
+    ) {
+    }
+}
@@ -0,0 +1,86 @@
+package ru.haritonenko.eventmanager.user.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import ru.haritonenko.eventmanager.user.domain.exception.PasswordHashingOverloadedException;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor hashingExecutor;
+    private final long waitTimeoutMs;
+
+    public BoundedPasswordEncoder(
+            PasswordEncoder delegate,
+            int hashingThreads,
+            int queueCapacity,
+            long waitTimeoutMs
+    ) {
+        this.delegate = delegate;
+        this.waitTimeoutMs = waitTimeoutMs;
+        var threadNumber = new AtomicInteger();
+        this.hashingExecutor = new ThreadPoolExecutor(
+                hashingThreads,
+                hashingThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    var thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return runOnHashingExecutor(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return runOnHashingExecutor(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        hashingExecutor.shutdown();
+    }
+
+    private <T> T runOnHashingExecutor(Callable<T> hashingTask) {
+        Future<T> hashingResult;
+        try {
+            hashingResult = hashingExecutor.submit(hashingTask);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Password hashing queue is full, rejecting request");
+            throw new PasswordHashingOverloadedException("Too many concurrent logins, try again later");
+        }
+        try {
+            return hashingResult.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            hashingResult.cancel(true);
+            log.warn("Password hashing took longer than {} ms", waitTimeoutMs);
+            throw new PasswordHashingOverloadedException("Too many concurrent logins, try again later");
+        } catch (InterruptedException ex) {
+            hashingResult.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingOverloadedException("Password hashing was interrupted");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Error while hashing password", ex.getCause());
+        }
+    }
+}
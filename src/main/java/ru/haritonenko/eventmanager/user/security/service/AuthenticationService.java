@@ -1,5 +1,6 @@
 package ru.haritonenko.eventmanager.user.security.service;
 
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -7,10 +8,20 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import ru.haritonenko.eventmanager.user.api.dto.authorization.UserCredentials;
+import ru.haritonenko.eventmanager.user.domain.exception.InvalidRefreshTokenException;
+import ru.haritonenko.eventmanager.user.domain.exception.UserNotFoundException;
+import ru.haritonenko.eventmanager.user.security.jwt.JwtResponse;
+import ru.haritonenko.eventmanager.user.security.jwt.JwtTokenClaims;
 import ru.haritonenko.eventmanager.user.security.jwt.JwtTokenManager;
+import ru.haritonenko.eventmanager.user.security.jwt.JwtTokenType;
+import ru.haritonenko.eventmanager.user.security.jwt.revocation.RevokedTokenRegistry;
 import ru.haritonenko.eventmanager.user.domain.User;
+import ru.haritonenko.eventmanager.user.domain.service.UserService;
+
+import java.util.UUID;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 @Service
 @Slf4j
@@ -21,15 +32,60 @@ public class AuthenticationService {
 
     private final JwtTokenManager jwtTokenManager;
 
-    public String authenticate(UserCredentials userFromSignInRequest) {
+    private final RevokedTokenRegistry revokedTokenRegistry;
+
+    private final UserService userService;
+
+    public JwtResponse authenticate(UserCredentials userFromSignInRequest) {
         authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         userFromSignInRequest.login(),
                         userFromSignInRequest.password()
                 )
         );
-        log.info("Generating jwt token");
-        return jwtTokenManager.generateToken(userFromSignInRequest.login());
+        var authenticatedUser = userService.findByLogin(userFromSignInRequest.login());
+        log.info("Generating jwt tokens");
+        return issueTokens(authenticatedUser);
+    }
+
+    public JwtResponse refresh(String refreshToken) {
+        var refreshTokenClaims = getRefreshTokenClaimsOrThrow(refreshToken);
+        String nextRefreshTokenId = UUID.randomUUID().toString();
+        if (!revokedTokenRegistry.rotateRefreshToken(refreshTokenClaims, nextRefreshTokenId)) {
+            log.warn("Refresh token was already used for login: {}", refreshTokenClaims.login());
+            throw new InvalidRefreshTokenException("Refresh token is revoked");
+        }
+        User user;
+        try {
+            user = userService.findByLogin(refreshTokenClaims.login());
+        } catch (UserNotFoundException ex) {
+            throw new InvalidRefreshTokenException("Refresh token owner no longer exists");
+        }
+        log.info("Refreshing jwt tokens");
+        return new JwtResponse(
+                jwtTokenManager.generateAccessToken(user),
+                jwtTokenManager.generateRefreshToken(user, refreshTokenClaims.familyId(), nextRefreshTokenId)
+        );
+    }
+
+    public void logout(String refreshToken) {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (isNull(authentication) || !(authentication.getDetails() instanceof JwtTokenClaims accessTokenClaims)) {
+            log.warn("Error while logging out: no access token in security context");
+            throw new IllegalStateException("Authentication not present");
+        }
+        JwtTokenClaims refreshTokenClaims = null;
+        if (nonNull(refreshToken)) {
+            refreshTokenClaims = getRefreshTokenClaimsOrThrow(refreshToken);
+            if (!refreshTokenClaims.login().equals(accessTokenClaims.login())) {
+                throw new InvalidRefreshTokenException("Refresh token belongs to another user");
+            }
+        }
+        revokedTokenRegistry.revokeAccessToken(accessTokenClaims);
+        if (nonNull(refreshTokenClaims)) {
+            revokedTokenRegistry.revokeRefreshTokenFamily(refreshTokenClaims);
+        }
+        log.info("Tokens revoked for login: {}", accessTokenClaims.login());
     }
 
     public User getCurrentAuthenticatedUser() {
@@ -42,4 +98,26 @@ public class AuthenticationService {
         return (User) authentication.getPrincipal();
     }
 
+    private JwtResponse issueTokens(User user) {
+        return new JwtResponse(
+                jwtTokenManager.generateAccessToken(user),
+                jwtTokenManager.generateRefreshToken(user)
+        );
+    }
+
+    private JwtTokenClaims getRefreshTokenClaimsOrThrow(String refreshToken) {
+        JwtTokenClaims refreshTokenClaims;
+        try {
+            refreshTokenClaims = jwtTokenManager.parseToken(refreshToken);
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.warn("Error while reading refresh token: {}", ex.getMessage());
+            throw new InvalidRefreshTokenException("Refresh token is invalid or expired");
+        }
+        if (refreshTokenClaims.tokenType() != JwtTokenType.REFRESH
+                || isNull(refreshTokenClaims.familyId())
+                || revokedTokenRegistry.isRefreshTokenRevoked(refreshTokenClaims)) {
+            throw new InvalidRefreshTokenException("Refresh token is revoked or has wrong type");
+        }
+        return refreshTokenClaims;
+    }
 }
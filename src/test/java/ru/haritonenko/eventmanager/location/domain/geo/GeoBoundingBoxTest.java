@@ -0,0 +1,95 @@
+package ru.haritonenko.eventmanager.location.domain.geo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static ru.haritonenko.eventmanager.location.domain.geo.GeoBoundingBox.EARTH_RADIUS_KM;
+
+class GeoBoundingBoxTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "10, 20, 500",
+            "70, 0, 500",
+            "-70, 45, 500",
+            "87, 0, 500",
+            "-87, 0, 500",
+            "0, 179, 500",
+            "0, -179, 500",
+            "45, 10, 1",
+            "60, -120, 250"
+    })
+    void containsEveryPointInsideRadius(double latitude, double longitude, double radiusKm) {
+        var boundingBox = GeoBoundingBox.around(latitude, longitude, radiusKm);
+
+        for (int bearing = 0; bearing < 360; bearing++) {
+            double[] point = destination(latitude, longitude, bearing, radiusKm * 0.999);
+            assertThat(haversineKm(latitude, longitude, point[0], point[1])).isLessThanOrEqualTo(radiusKm);
+            assertThat(contains(boundingBox, point[0], point[1]))
+                    .as("bearing %s, point %s, %s", bearing, point[0], point[1])
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void latitudeBandUsesHaversineEarthRadius() {
+        var boundingBox = GeoBoundingBox.around(10, 20, 500);
+
+        assertThat(haversineKm(10, 20, 14.4921, 20)).isLessThanOrEqualTo(500);
+        assertThat(boundingBox.maxLatitude()).isGreaterThanOrEqualTo(14.4921);
+    }
+
+    @Test
+    void longitudeSpanCoversHighLatitudes() {
+        var boundingBox = GeoBoundingBox.around(70, 0, 500);
+
+        assertThat(boundingBox.maxLongitude()).isGreaterThan(13.24);
+        assertThat(boundingBox.minLongitude()).isLessThan(-13.24);
+    }
+
+    @Test
+    void bandCrossingPoleUsesFullLongitudeRange() {
+        var boundingBox = GeoBoundingBox.around(87, 0, 500);
+
+        assertThat(haversineKm(87, 0, 89, 180)).isLessThanOrEqualTo(500);
+        assertThat(contains(boundingBox, 89, 180)).isTrue();
+        assertThat(boundingBox.maxLatitude()).isEqualTo(90);
+    }
+
+    @Test
+    void boxCrossingAntimeridianUsesFullLongitudeRange() {
+        var boundingBox = GeoBoundingBox.around(0, 179, 500);
+
+        assertThat(boundingBox.minLongitude()).isEqualTo(-180);
+        assertThat(boundingBox.maxLongitude()).isEqualTo(180);
+    }
+
+    private static boolean contains(GeoBoundingBox boundingBox, double latitude, double longitude) {
+        return latitude >= boundingBox.minLatitude()
+                && latitude <= boundingBox.maxLatitude()
+                && longitude >= boundingBox.minLongitude()
+                && longitude <= boundingBox.maxLongitude();
+    }
+
+    private static double[] destination(double latitude, double longitude, double bearing, double distanceKm) {
+        double angularDistance = distanceKm / EARTH_RADIUS_KM;
+        double latitudeRad = Math.toRadians(latitude);
+        double bearingRad = Math.toRadians(bearing);
+        double destinationLatitude = Math.asin(Math.sin(latitudeRad) * Math.cos(angularDistance)
+                + Math.cos(latitudeRad) * Math.sin(angularDistance) * Math.cos(bearingRad));
+        double destinationLongitude = Math.toRadians(longitude) + Math.atan2(
+                Math.sin(bearingRad) * Math.sin(angularDistance) * Math.cos(latitudeRad),
+                Math.cos(angularDistance) - Math.sin(latitudeRad) * Math.sin(destinationLatitude));
+        double normalizedLongitude = (Math.toDegrees(destinationLongitude) + 540) % 360 - 180;
+        return new double[]{Math.toDegrees(destinationLatitude), normalizedLongitude};
+    }
+
+    private static double haversineKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(
+                Math.pow(Math.sin(Math.toRadians(latitude2 - latitude1) / 2), 2)
+                        + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                        * Math.pow(Math.sin(Math.toRadians(longitude2 - longitude1) / 2), 2)));
+    }
+}